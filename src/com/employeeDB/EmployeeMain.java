@@ -6,7 +6,9 @@ import java.time.format.DateTimeParseException;
 import java.util.*;
 import com.employeeDB.config.DBConfig;
 import com.employeeDB.dao.EmployeeDao;
+import com.employeeDB.model.Cents;
 import com.employeeDB.model.Employee;
+import com.employeeDB.model.SalaryStatistics;
 
 public class EmployeeMain {
     private static final Scanner sc = new Scanner(System.in);
@@ -17,12 +19,20 @@ public class EmployeeMain {
         // Display welcome banner
         displayWelcomeBanner();
 
-        // Initialize database
-        System.out.println("\nInitializing database...");
-        DBConfig.initializeDatabase();
+        boolean connected;
+        if (isFastStart(args)) {
+            // Connect in the background and skip DDL when the schema version is current
+            connected = DBConfig.fastStart();
+        } else {
+            // Initialize database
+            System.out.println("\nInitializing database...");
+            DBConfig.initializeDatabase();
+
+            // Test connection
+            connected = DBConfig.testConnection();
+        }
 
-        // Test connection
-        if (!DBConfig.testConnection()) {
+        if (!connected) {
             System.err.println("\nFailed to connect to database. Please check your configuration.");
             System.err.println("Make sure MySQL is running and credentials in DatabaseConfig.java are correct.");
             return;
@@ -55,6 +65,13 @@ public class EmployeeMain {
         sc.close();
     }
 
+    /**
+     * Fast start is enabled with --fast or -DemployeeDB.fastStart=true
+     */
+    private static boolean isFastStart(String[] args) {
+        return Boolean.getBoolean("employeeDB.fastStart") || Arrays.asList(args).contains("--fast");
+    }
+
      /**
      * Display welcome banner
      */
@@ -106,7 +123,7 @@ public class EmployeeMain {
             System.out.print("Department: ");
             String department = sc.nextLine().trim();
 
-            double salary = getDoubleInput("Salary: ");
+            long salaryCents = getSalaryInput("Salary: ");
 
             LocalDate hireDate = getDateInput("Hire Date (yyyy-MM-dd): ");
 
@@ -116,12 +133,12 @@ public class EmployeeMain {
                 return;
             }
 
-            if (salary <= 0) {
+            if (salaryCents <= 0) {
                 System.out.println("Salary must be positive!");
                 return;
             }
 
-            Employee employee = new Employee(firstName, lastName, email, department, salary, hireDate);
+            Employee employee = new Employee(firstName, lastName, email, department, salaryCents, hireDate);
             employeeDAO.addEmployee(employee);
 
         } catch (Exception e) {
@@ -242,11 +259,11 @@ public class EmployeeMain {
             String department = sc.nextLine().trim();
             if (!department.isEmpty()) employee.setDepartment(department);
 
-            System.out.print("Salary [" + employee.getSalary() + "]: ");
+            System.out.print("Salary [" + Cents.format(employee.getSalaryCents()) + "]: ");
             String salaryStr = sc.nextLine().trim();
             if (!salaryStr.isEmpty()) {
-                double salary = Double.parseDouble(salaryStr);
-                if (salary > 0) employee.setSalary(salary);
+                long salaryCents = Cents.parse(salaryStr);
+                if (salaryCents > 0) employee.setSalaryCents(salaryCents);
             }
 
             System.out.print("Hire Date [" + employee.getHireDate() + "] (yyyy-MM-dd): ");
@@ -304,29 +321,14 @@ public class EmployeeMain {
         System.out.println("Total Employees: " + totalEmployees);
 
         if (totalEmployees > 0) {
-            List<Employee> employees = employeeDAO.getAllEmployees();
-            
-            // Calculate average salary
-            double avgSalary = employees.stream()
-                    .mapToDouble(Employee::getSalary)
-                    .average()
-                    .orElse(0.0);
-
-            // Find max salary
-            double maxSalary = employees.stream()
-                    .mapToDouble(Employee::getSalary)
-                    .max()
-                    .orElse(0.0);
-
-            // Find min salary
-            double minSalary = employees.stream()
-                    .mapToDouble(Employee::getSalary)
-                    .min()
-                    .orElse(0.0);
-
-            System.out.printf("Average Salary: $%.2f%n", avgSalary);
-            System.out.printf("Highest Salary: $%.2f%n", maxSalary);
-            System.out.printf("Lowest Salary: $%.2f%n", minSalary);
+            SalaryStatistics statistics = employeeDAO.getSalaryStatistics();
+            long avgSalary = statistics.getAverageCents();
+            long maxSalary = statistics.getMaxCents();
+            long minSalary = statistics.getMinCents();
+
+            System.out.printf("Average Salary: $%s%n", Cents.format(avgSalary));
+            System.out.printf("Highest Salary: $%s%n", Cents.format(maxSalary));
+            System.out.printf("Lowest Salary: $%s%n", Cents.format(minSalary));
         }
     }
 
@@ -346,16 +348,16 @@ public class EmployeeMain {
     }
 
     /**
-     * Helper method to get double input
+     * Helper method to get salary input in cents
      */
-    private static double getDoubleInput(String prompt) {
+    private static long getSalaryInput(String prompt) {
         while (true) {
             try {
                 System.out.print(prompt);
                 String input = sc.nextLine().trim();
-                return Double.parseDouble(input);
+                return Cents.parse(input);
             } catch (NumberFormatException e) {
-                System.out.println("Please enter a valid number!");
+                System.out.println("Please enter a valid amount with up to two decimals!");
             }
         }
     }
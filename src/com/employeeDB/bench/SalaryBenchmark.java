@@ -0,0 +1,107 @@
+package com.employeeDB.bench;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import com.employeeDB.model.Cents;
+
+/**
+ * Compares salary aggregation (sum, min, max, average) over the same values
+ * held as double, BigDecimal and long cents: time and allocation per pass,
+ * and how far the double result drifts from the exact one.
+ *
+ * Usage: java -cp "bin;lib/*" com.employeeDB.bench.SalaryBenchmark [rows] [passes]
+ */
+public class SalaryBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        // Salaries between 30,000.00 and 250,000.00 with arbitrary cents
+        Random random = new Random(42);
+        long[] cents = new long[rows];
+        double[] doubles = new double[rows];
+        BigDecimal[] decimals = new BigDecimal[rows];
+        for (int i = 0; i < rows; i++) {
+            cents[i] = 3_000_000 + (long) (random.nextDouble() * 22_000_000);
+            doubles[i] = cents[i] / 100.0;
+            decimals[i] = Cents.toDecimal(cents[i]);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            sumDouble(doubles);
+            sumDecimal(decimals);
+            sumCents(cents);
+        }
+
+        measure("double", rows, passes, () -> sumDouble(doubles));
+        measure("BigDecimal", rows, passes, () -> sumDecimal(decimals));
+        measure("long cents", rows, passes, () -> sumCents(cents));
+
+        BigDecimal exact = Cents.toDecimal(sumCents(cents));
+        BigDecimal drifted = new BigDecimal(sumDouble(doubles));
+        System.out.println("Exact total:  " + exact);
+        System.out.println("Double total: " + drifted.setScale(10, RoundingMode.HALF_UP)
+                + " (error " + drifted.subtract(exact).setScale(10, RoundingMode.HALF_UP) + ")");
+        System.out.println("BigDecimal matches exact: " + (sumDecimal(decimals).compareTo(exact) == 0));
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static double sumDouble(double[] values) {
+        double total = 0;
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (double value : values) {
+            total += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        sink += (long) (min + max + total / values.length);
+        return total;
+    }
+
+    private static BigDecimal sumDecimal(BigDecimal[] values) {
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal min = values[0];
+        BigDecimal max = values[0];
+        for (BigDecimal value : values) {
+            total = total.add(value);
+            min = min.min(value);
+            max = max.max(value);
+        }
+        BigDecimal average = total.divide(BigDecimal.valueOf(values.length), 2, RoundingMode.HALF_UP);
+        sink += min.longValue() + max.longValue() + average.longValue();
+        return total;
+    }
+
+    private static long sumCents(long[] values) {
+        long total = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long value : values) {
+            total += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        sink += min + max + Math.floorDiv(total + values.length / 2, values.length);
+        return total;
+    }
+
+    private static void measure(String name, int rows, int passes, Runnable pass) {
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < passes; i++) {
+            pass.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        System.out.printf("%-11s %8.2f ms/pass | %6.2f ns/row | %12d B/pass%n",
+                name, elapsed / 1e6 / passes, (double) elapsed / passes / rows, allocated / passes);
+    }
+}
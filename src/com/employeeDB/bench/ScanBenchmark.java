@@ -0,0 +1,109 @@
+package com.employeeDB.bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import com.employeeDB.dao.EmployeeDao;
+import com.employeeDB.model.Employee;
+
+/**
+ * Compares allocation per full table scan for getAllEmployees() (one Employee
+ * per row, whole result buffered) and forEachEmployee() (reused row view,
+ * streamed result). Reports the same figures as JMH's -prof gc: bytes
+ * allocated per scan and per row, plus GC count and time.
+ *
+ * getAllEmployees() is not the original decoding path: it includes the
+ * department interning that was added together with forEachEmployee().
+ *
+ * Usage: java -cp "bin;lib/*" com.employeeDB.bench.ScanBenchmark [iterations]
+ * Fill the table with a realistic number of rows first.
+ */
+public class ScanBenchmark {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        EmployeeDao dao = new EmployeeDao();
+
+        // Warm up both paths before measuring
+        for (int i = 0; i < 5; i++) {
+            materializedScan(dao);
+            flyweightScan(dao);
+        }
+
+        measure("getAllEmployees", iterations, () -> materializedScan(dao));
+        measure("forEachEmployee", iterations, () -> flyweightScan(dao));
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static int materializedScan(EmployeeDao dao) {
+        int rows = 0;
+        for (Employee employee : dao.getAllEmployees()) {
+            sink += employee.getId() + employee.getDepartment().length();
+            rows++;
+        }
+        return rows;
+    }
+
+    private static int flyweightScan(EmployeeDao dao) {
+        return dao.forEachEmployee(row -> sink += row.getId() + row.getDepartment().length());
+    }
+
+    private static void measure(String name, int iterations, Scan scan) {
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+
+        long rows = 0;
+        for (int i = 0; i < iterations; i++) {
+            rows += scan.run();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        System.out.printf("%-16s %8.2f ms/scan | %12d B/scan | %8.1f B/row | %.1f MB/s | GC: %d (%d ms)%n",
+                name,
+                elapsed / 1e6 / iterations,
+                allocated / iterations,
+                rows == 0 ? 0.0 : (double) allocated / rows,
+                allocated / 1e6 / (elapsed / 1e9),
+                gcCount() - gcCountBefore,
+                gcTime() - gcTimeBefore);
+    }
+
+    /**
+     * Bytes allocated by all live threads, so shard query threads are counted too
+     */
+    private static long allocatedBytes() {
+        long total = 0;
+        for (long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+
+    private interface Scan {
+        int run();
+    }
+}
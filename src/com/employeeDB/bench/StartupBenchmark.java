@@ -0,0 +1,85 @@
+package com.employeeDB.bench;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import com.employeeDB.config.DBConfig;
+import com.employeeDB.dao.EmployeeDao;
+
+/**
+ * Measures time to first query (JVM start until the first result is back)
+ * for the standard and the fast start sequence. Each run is a fresh JVM,
+ * since driver registration and the schema cache are per process.
+ *
+ * Usage: java -cp "bin;lib/*" com.employeeDB.bench.StartupBenchmark [runs]
+ * Database settings (-DemployeeDB.*) are passed on to the child JVMs.
+ */
+public class StartupBenchmark {
+    private static final String RESULT_PREFIX = "TIME_TO_FIRST_QUERY_MS=";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && args[0].equals("--child")) {
+            runChild(args[1]);
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        for (String mode : new String[] {"standard", "fast"}) {
+            List<Long> times = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                times.add(runInChildJvm(mode));
+            }
+            Collections.sort(times);
+            System.out.printf("%-8s median: %5d ms | min: %5d ms | max: %5d ms (%d runs)%n",
+                    mode, times.get(times.size() / 2), times.get(0), times.get(times.size() - 1), runs);
+        }
+    }
+
+    private static void runChild(String mode) {
+        EmployeeDao dao = new EmployeeDao();
+        if (mode.equals("fast")) {
+            DBConfig.fastStart();
+        } else {
+            DBConfig.initializeDatabase();
+            DBConfig.testConnection();
+        }
+        dao.getEmployeeCount();
+
+        long elapsed = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.out.println(RESULT_PREFIX + elapsed);
+    }
+
+    private static long runInChildJvm(String mode) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("employeeDB.")) {
+                command.add("-D" + name + "=" + System.getProperty(name));
+            }
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StartupBenchmark.class.getName());
+        command.add("--child");
+        command.add(mode);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long result = -1;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = Long.parseLong(line.substring(RESULT_PREFIX.length()));
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result < 0) {
+            throw new IllegalStateException("Benchmark run failed for mode " + mode);
+        }
+        return result;
+    }
+}
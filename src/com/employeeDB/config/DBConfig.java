@@ -1,30 +1,363 @@
 package com.employeeDB.config;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DBConfig {
     private static final String BASE_URL="jdbc:mysql://localhost:3306/";
     private static final String DB_NAME = "employee_DB";
-    private static final String URL = BASE_URL + DB_NAME;
+    private static final String URL = System.getProperty("employeeDB.primary", BASE_URL + DB_NAME);
     private static final String USERNAME = "root";
     private static final String PASSWORD = "system";
 
+    // Read replicas, e.g. -DemployeeDB.replicas=jdbc:mysql://localhost:3307/employee_DB,jdbc:mysql://localhost:3308/employee_DB
+    private static final List<String> REPLICA_URLS = parseUrls(System.getProperty("employeeDB.replicas", ""));
+    // How long reads stay on the primary after this thread writes (0 disables read-your-writes)
+    private static final long READ_YOUR_WRITES_MS = Long.getLong("employeeDB.readYourWritesMs", 2000L);
+    // How long a replica that failed its health check is skipped before being retried
+    private static final long REPLICA_RETRY_MS = Long.getLong("employeeDB.replicaRetryMs", 10000L);
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+
+    // Bump when the DDL in initializeDatabase changes; stored in the schema_version table
+    private static final int SCHEMA_VERSION = 1;
+    // Caches a successful schema_version check so fast start can skip it
+    private static final Path SCHEMA_CACHE = Paths.get(System.getProperty("employeeDB.schemaCache",
+            System.getProperty("user.home") + "/.employeeDB-schema"));
+    // Connections opened ahead of time per database by warmUp()
+    private static final int WARM_CONNECTIONS = Integer.getInteger("employeeDB.warmConnections", 1);
+    private static final String DRIVER_ERROR = registerDriver();
+    // MySQL error code for "Table doesn't exist"
+    private static final int ER_NO_SUCH_TABLE = 1146;
+
+    private static final AtomicInteger nextReplica = new AtomicInteger();
+    private static final long[] replicaDownUntil = new long[REPLICA_URLS.size()];
+    private static final ThreadLocal<Long> lastWriteTime = ThreadLocal.withInitial(() -> 0L);
+    private static final Map<String, Queue<Future<Connection>>> warmConnections = new ConcurrentHashMap<>();
+
     public static Connection getConnection() throws SQLException{
-        try{
+        return open(URL);
+    }
+
+    /**
+     * Get a connection for read-only queries.
+     * Replicas are picked round-robin and health checked; unhealthy ones are
+     * skipped for a while. Falls back to the primary when no replica is
+     * configured or available, or when this thread wrote recently.
+     * @return connection to a replica or the primary
+     */
+    public static Connection getReadConnection() throws SQLException {
+        if (REPLICA_URLS.isEmpty() || readsPinnedToPrimary()) {
+            return getConnection();
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), REPLICA_URLS.size());
+        for (int i = 0; i < REPLICA_URLS.size(); i++) {
+            int index = (start + i) % REPLICA_URLS.size();
+            Connection conn = tryReplica(index);
+            if (conn != null) {
+                return conn;
+            }
+        }
+        return getConnection();
+    }
+
+    /**
+     * Record that the current thread modified data, so its next reads
+     * are served by the primary (read-your-writes)
+     */
+    public static void markWrite() {
+        if (READ_YOUR_WRITES_MS > 0) {
+            lastWriteTime.set(System.currentTimeMillis());
+        }
+    }
+
+    private static boolean readsPinnedToPrimary() {
+        return READ_YOUR_WRITES_MS > 0
+            && System.currentTimeMillis() - lastWriteTime.get() < READ_YOUR_WRITES_MS;
+    }
+
+    private static Connection tryReplica(int index) {
+        synchronized (replicaDownUntil) {
+            if (replicaDownUntil[index] > System.currentTimeMillis()) {
+                return null;
+            }
+        }
+
+        Connection conn = null;
+        try {
+            conn = open(REPLICA_URLS.get(index));
+            if (conn.isValid(HEALTH_CHECK_TIMEOUT_SECONDS)) {
+                conn.setReadOnly(true);
+                // The socket timeout only guards the handshake and health check, not long scans
+                conn.setNetworkTimeout(Runnable::run, 0);
+                return conn;
+            }
+        } catch (SQLException e) {
+            System.err.println("Replica " + REPLICA_URLS.get(index) + " unavailable: " + e.getMessage());
+        }
+
+        closeQuietly(conn);
+        synchronized (replicaDownUntil) {
+            replicaDownUntil[index] = System.currentTimeMillis() + REPLICA_RETRY_MS;
+        }
+        return null;
+    }
+
+    static Connection open(String url) throws SQLException {
+        if (DRIVER_ERROR != null) {
+            throw new SQLException("Database not found " + DRIVER_ERROR);
+        }
+        Connection conn = takeWarmConnection(url);
+        if (conn != null) {
+            return conn;
+        }
+        return DriverManager.getConnection(url, connectionProperties(url));
+    }
+
+    /**
+     * Credentials, plus connect and socket timeouts for replicas. Connector/J
+     * waits forever by default, so an unreachable replica would block reads
+     * until the OS gives up on the TCP connection.
+     */
+    private static Properties connectionProperties(String url) {
+        Properties info = new Properties();
+        info.setProperty("user", USERNAME);
+        info.setProperty("password", PASSWORD);
+        if (REPLICA_URLS.contains(url)) {
+            String timeoutMs = String.valueOf(HEALTH_CHECK_TIMEOUT_SECONDS * 1000);
+            info.setProperty("connectTimeout", timeoutMs);
+            info.setProperty("socketTimeout", timeoutMs);
+        }
+        return info;
+    }
+
+    /**
+     * Take a connection opened by warmUp(), waiting for it if the handshake is
+     * still in flight rather than dialling a second one
+     * @return open connection, or null if none was warmed or it is no longer usable
+     */
+    private static Connection takeWarmConnection(String url) {
+        Queue<Future<Connection>> warm = warmConnections.get(url);
+        Future<Connection> pending = warm == null ? null : warm.poll();
+        if (pending == null) {
+            return null;
+        }
+
+        Connection conn = null;
+        try {
+            conn = pending.get();
+            // A parked connection may have outlived the server's wait_timeout
+            if (conn.isValid(HEALTH_CHECK_TIMEOUT_SECONDS)) {
+                return conn;
+            }
+        } catch (ExecutionException | SQLException e) {
+            // warm-up already reported its failure; the caller dials again
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeQuietly(conn);
+        return null;
+    }
+
+    /**
+     * Load the JDBC driver once for the whole run
+     * @return error message, or null if the driver is available
+     */
+    private static String registerDriver() {
+        try {
             Class.forName("com.mysql.cj.jdbc.Driver");
-            return DriverManager.getConnection(URL, USERNAME, PASSWORD);
-        } catch(ClassNotFoundException e){
-            throw new SQLException("Database not found " +e.getMessage());
+            return null;
+        } catch (ClassNotFoundException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Open connections to every configured database in parallel in the
+     * background, so the first queries don't pay for the handshake
+     */
+    public static void warmUp() {
+        List<String> urls = new ArrayList<>(writeUrls());
+        if (!ShardRouter.isSharded()) {
+            urls.addAll(REPLICA_URLS);
+        }
+
+        for (String url : urls) {
+            Queue<Future<Connection>> warm = warmConnections.computeIfAbsent(url, u -> new ConcurrentLinkedQueue<>());
+            for (int i = 0; i < WARM_CONNECTIONS; i++) {
+                // Queued before it completes so open() can wait on it
+                FutureTask<Connection> task = new FutureTask<>(() -> {
+                    try {
+                        return DriverManager.getConnection(url, connectionProperties(url));
+                    } catch (SQLException e) {
+                        System.err.println("Connection warm-up failed for " + url + ": " + e.getMessage());
+                        throw e;
+                    }
+                });
+                warm.add(task);
+                Thread t = new Thread(task, "connection-warm-up");
+                t.setDaemon(true);
+                t.start();
+            }
+        }
+    }
+
+    /**
+     * Wait until the warm-up connections to the primary (or every shard) are established
+     * @return false if any of them could not connect
+     */
+    private static boolean awaitWarmUp() {
+        for (String url : writeUrls()) {
+            Queue<Future<Connection>> warm = warmConnections.get(url);
+            Future<Connection> pending = warm == null ? null : warm.peek();
+            if (pending == null) {
+                continue;
+            }
+            try {
+                pending.get();
+            } catch (ExecutionException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Start up without the DDL and connection test round trips: connect in the
+     * background and check the schema version only when it is not cached
+     * @return false if the database cannot be reached or initialized
+     */
+    public static boolean fastStart() {
+        warmUp();
+        return initializeDatabaseIfNeeded() && awaitWarmUp();
+    }
+
+    private static List<String> writeUrls() {
+        List<String> urls = new ArrayList<>();
+        if (ShardRouter.isSharded()) {
+            urls.addAll(ShardRouter.shardUrls());
+        } else {
+            urls.add(URL);
+        }
+        return urls;
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    static List<String> parseUrls(String value) {
+        List<String> urls = new ArrayList<>();
+        for (String url : value.split(",")) {
+            if (!url.trim().isEmpty()) {
+                urls.add(url.trim());
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Initialize database only if its schema_version is missing or outdated.
+     * A successful check is cached locally so later launches skip the round
+     * trip; the cache is dropped when a query finds a table missing.
+     * @return true if the schema is in place
+     */
+    public static boolean initializeDatabaseIfNeeded() {
+        String key = "v" + SCHEMA_VERSION + " " + URL + " " + ShardRouter.shardUrls();
+        try {
+            if (Files.exists(SCHEMA_CACHE) && key.equals(Files.readString(SCHEMA_CACHE).trim())) {
+                return true;
+            }
+        } catch (IOException e) {
+            System.err.println("Could not read schema cache: " + e.getMessage());
+        }
+
+        if (!schemaUpToDate() && !initializeSchema()) {
+            return false;
         }
+        try {
+            Files.writeString(SCHEMA_CACHE, key);
+        } catch (IOException e) {
+            System.err.println("Could not write schema cache: " + e.getMessage());
+        }
+        return true;
     }
 
     /**
-     * Initialize database and create table if not exists
+     * Recreate the schema after a query failed because a table is missing,
+     * e.g. when it was dropped while the schema cache still said it exists
+     * @param e error from the failed query
      */
-    public static void initializeDatabase() {
+    public static void recoverMissingSchema(SQLException e) {
+        if (e.getErrorCode() != ER_NO_SUCH_TABLE) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(SCHEMA_CACHE);
+        } catch (IOException ioe) {
+            System.err.println("Could not delete schema cache: " + ioe.getMessage());
+        }
+        System.out.println("Table missing, re-initializing database...");
+        initializeSchema();
+    }
+
+    /**
+     * Check the schema version stored on every shard
+     * @return true if all of them are at SCHEMA_VERSION
+     */
+    private static boolean schemaUpToDate() {
+        String sql = "SELECT version FROM schema_version WHERE id = 1";
+
+        try {
+            for (int shard = 0; shard < ShardRouter.shardCount(); shard++) {
+                try (Connection conn = ShardRouter.getConnection(shard);
+                     PreparedStatement pstmt = conn.prepareStatement(sql);
+                     ResultSet rs = pstmt.executeQuery()) {
+
+                    if (!rs.next() || rs.getInt(1) != SCHEMA_VERSION) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            // Missing table or unreachable database; initializeDatabase reports the latter
+            return false;
+        }
+    }
+
+    /**
+     * Initialize database and create table if not exists (on every shard)
+     * @return true if successful
+     */
+    public static boolean initializeDatabase() {
         String createTableSQL = 
         "CREATE TABLE IF NOT EXISTS employees (" +
         "id INT PRIMARY KEY AUTO_INCREMENT," +
@@ -38,15 +371,64 @@ public class DBConfig {
         "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP" +
         ")";
 
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            
-            stmt.execute(createTableSQL);
+        try {
+            for (int shard = 0; shard < ShardRouter.shardCount(); shard++) {
+                try (Connection conn = ShardRouter.getConnection(shard);
+                     Statement stmt = conn.createStatement()) {
+
+                    stmt.execute(createTableSQL);
+                    if (shard == 0 && ShardRouter.isSharded()) {
+                        ShardRouter.initializeGlobalTables(conn);
+                    }
+                }
+            }
             System.out.println("Database initialized successfully!");
+            return true;
             
         } catch (SQLException e) {
             System.err.println("Error initializing database: " + e.getMessage());
         }
+        return false;
+    }
+
+    /**
+     * Run the DDL and record SCHEMA_VERSION on every shard for later fast starts.
+     * The standard startup calls initializeDatabase() alone and skips the version write.
+     * @return true if successful
+     */
+    private static boolean initializeSchema() {
+        if (!initializeDatabase()) {
+            return false;
+        }
+        try {
+            for (int shard = 0; shard < ShardRouter.shardCount(); shard++) {
+                try (Connection conn = ShardRouter.getConnection(shard)) {
+                    recordSchemaVersion(conn);
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error recording schema version: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Store SCHEMA_VERSION once the DDL has run, for initializeDatabaseIfNeeded
+     */
+    private static void recordSchemaVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS schema_version (" +
+                         "id TINYINT PRIMARY KEY," +
+                         "version INT NOT NULL" +
+                         ")");
+        }
+        String sql = "INSERT INTO schema_version (id, version) VALUES (1, ?) ON DUPLICATE KEY UPDATE version = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, SCHEMA_VERSION);
+            pstmt.setInt(2, SCHEMA_VERSION);
+            pstmt.executeUpdate();
+        }
     }
 
     /**
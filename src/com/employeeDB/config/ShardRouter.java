@@ -0,0 +1,177 @@
+package com.employeeDB.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Routes employee rows across database shards by a hash of the employee id.
+ * Shards are configured with -DemployeeDB.shards=url1,url2,... (one or more);
+ * without it the application runs on the single database from DBConfig (with
+ * its replicas).
+ * The shard list must not change once data has been written, since the id
+ * hash decides where each row lives.
+ */
+public class ShardRouter {
+    private static final List<String> SHARD_URLS = DBConfig.parseUrls(System.getProperty("employeeDB.shards", ""));
+    // Ids handed out per round trip to the sequence table
+    private static final int ID_BLOCK_SIZE = Integer.getInteger("employeeDB.idBlockSize", 100);
+
+    private static ExecutorService executor;
+    private static long nextId;
+    private static long idBlockEnd;
+
+    /**
+     * Work done against one shard's connection
+     */
+    public interface ShardQuery<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    /**
+     * @return true if any shard is configured, even a single one
+     */
+    public static boolean isSharded() {
+        return !SHARD_URLS.isEmpty();
+    }
+
+    static List<String> shardUrls() {
+        return SHARD_URLS;
+    }
+
+    public static int shardCount() {
+        return isSharded() ? SHARD_URLS.size() : 1;
+    }
+
+    /**
+     * Find the shard holding an employee
+     * @param id Employee ID
+     * @return shard index
+     */
+    public static int shardFor(int id) {
+        if (!isSharded()) {
+            return 0;
+        }
+        // Mix the bits so consecutive ids from one block spread over all shards
+        int h = id * 0x9E3779B9;
+        h ^= h >>> 16;
+        return Math.floorMod(h, SHARD_URLS.size());
+    }
+
+    public static Connection getConnection(int shard) throws SQLException {
+        return isSharded() ? DBConfig.open(SHARD_URLS.get(shard)) : DBConfig.getConnection();
+    }
+
+    public static Connection getReadConnection(int shard) throws SQLException {
+        return isSharded() ? DBConfig.open(SHARD_URLS.get(shard)) : DBConfig.getReadConnection();
+    }
+
+    /**
+     * Run a read query on every shard in parallel
+     * @return one result per shard, in shard order
+     */
+    public static <T> List<T> scatter(ShardQuery<T> query) throws SQLException {
+        List<T> results = new ArrayList<>();
+        if (!isSharded()) {
+            try (Connection conn = getReadConnection(0)) {
+                results.add(query.run(conn));
+            }
+            return results;
+        }
+
+        List<Future<T>> futures = new ArrayList<>();
+        for (int shard = 0; shard < SHARD_URLS.size(); shard++) {
+            final int s = shard;
+            futures.add(executor().submit(() -> {
+                try (Connection conn = getReadConnection(s)) {
+                    return query.run(conn);
+                }
+            }));
+        }
+
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    throw (SQLException) cause;
+                }
+                throw new SQLException("Shard query failed: " + cause, cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while querying shards", e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Allocate a globally unique employee id.
+     * Ids are reserved in blocks from the employee_id_sequence table on shard 0,
+     * so most calls don't touch the database.
+     * @return new employee id
+     */
+    public static synchronized int nextId() throws SQLException {
+        if (nextId >= idBlockEnd) {
+            String sql = "UPDATE employee_id_sequence SET next_id = LAST_INSERT_ID(next_id + ?) WHERE id = 1";
+            try (Connection conn = getConnection(0);
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+                pstmt.setInt(1, ID_BLOCK_SIZE);
+                // Without the row LAST_INSERT_ID() would be 0 and the block would be negative
+                if (pstmt.executeUpdate() != 1) {
+                    throw new SQLException("Employee id sequence row missing; initialize the database first");
+                }
+                try (Statement stmt = conn.createStatement();
+                     ResultSet rs = stmt.executeQuery("SELECT LAST_INSERT_ID()")) {
+                    rs.next();
+                    idBlockEnd = rs.getLong(1);
+                    nextId = idBlockEnd - ID_BLOCK_SIZE;
+                }
+            }
+        }
+        if (nextId > Integer.MAX_VALUE) {
+            throw new SQLException("Employee id space exhausted");
+        }
+        return (int) nextId++;
+    }
+
+    /**
+     * Create the id sequence and global email tables on shard 0 if not exists
+     */
+    static void initializeGlobalTables(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            // The fixed key keeps concurrent initializations from inserting a second row
+            stmt.execute("CREATE TABLE IF NOT EXISTS employee_id_sequence (" +
+                         "id TINYINT PRIMARY KEY," +
+                         "next_id BIGINT NOT NULL" +
+                         ")");
+            stmt.execute("INSERT IGNORE INTO employee_id_sequence (id, next_id) VALUES (1, 1)");
+            // employees.email is only UNIQUE within a shard; this table makes it global
+            stmt.execute("CREATE TABLE IF NOT EXISTS employee_emails (" +
+                         "email VARCHAR(100) PRIMARY KEY," +
+                         "employee_id INT NOT NULL UNIQUE" +
+                         ")");
+        }
+    }
+
+    private static synchronized ExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(SHARD_URLS.size(), r -> {
+                Thread t = new Thread(r, "shard-query");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return executor;
+    }
+}
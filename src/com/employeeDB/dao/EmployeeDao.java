@@ -1,12 +1,27 @@
 package com.employeeDB.dao;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import com.employeeDB.config.DBConfig;
+import com.employeeDB.config.ShardRouter;
+import com.employeeDB.model.Cents;
 import com.employeeDB.model.Employee;
+import com.employeeDB.model.EmployeeRow;
+import com.employeeDB.model.SalaryStatistics;
 
 public class EmployeeDao {
+    // Departments are few, so rows share one String per department name
+    private static final int MAX_INTERNED_DEPARTMENTS = 1024;
+    // Salary is read as whole cents so the driver returns a long, not a BigDecimal
+    private static final String COLUMNS =
+        "id, first_name, last_name, email, department, CAST(salary * 100 AS SIGNED) AS salary_cents, hire_date";
+    private final Map<String, String> departments = new ConcurrentHashMap<>();
    
     /**
      * Add a new employee to the database
@@ -14,6 +29,9 @@ public class EmployeeDao {
      * @return true if successful
      */
     public boolean addEmployee(Employee employee) {
+        if (ShardRouter.isSharded()) {
+            return addEmployeeToShard(employee);
+        }
         String sql = "INSERT INTO employees (first_name, last_name, email, department, salary, hire_date) " +
                      "VALUES (?, ?, ?, ?, ?, ?)";
 
@@ -24,7 +42,7 @@ public class EmployeeDao {
             pstmt.setString(2, employee.getLastName());
             pstmt.setString(3, employee.getEmail());
             pstmt.setString(4, employee.getDepartment());
-            pstmt.setDouble(5, employee.getSalary());
+            pstmt.setBigDecimal(5, Cents.toDecimal(employee.getSalaryCents()));
             pstmt.setDate(6, Date.valueOf(employee.getHireDate()));
 
             int rowsAffected = pstmt.executeUpdate();
@@ -36,12 +54,55 @@ public class EmployeeDao {
                         employee.setId(generatedKeys.getInt(1));
                     }
                 }
+                DBConfig.markWrite();
                 System.out.println("Employee added successfully! ID: " + employee.getId());
                 return true;
             }
 
         } catch (SQLException e) {
             System.err.println("Error adding employee: " + e.getMessage());
+            DBConfig.recoverMissingSchema(e);
+        }
+        return false;
+    }
+
+    /**
+     * Insert an employee with a globally unique id into the shard owning that id
+     */
+    private boolean addEmployeeToShard(Employee employee) {
+        String sql = "INSERT INTO employees (id, first_name, last_name, email, department, salary, hire_date) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+        try {
+            int id = ShardRouter.nextId();
+            updateEmailIndex("INSERT INTO employee_emails (email, employee_id) VALUES (?, ?)", employee.getEmail(), id);
+            boolean added = false;
+            try (Connection conn = ShardRouter.getConnection(ShardRouter.shardFor(id));
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+                pstmt.setInt(1, id);
+                pstmt.setString(2, employee.getFirstName());
+                pstmt.setString(3, employee.getLastName());
+                pstmt.setString(4, employee.getEmail());
+                pstmt.setString(5, employee.getDepartment());
+                pstmt.setBigDecimal(6, Cents.toDecimal(employee.getSalaryCents()));
+                pstmt.setDate(7, Date.valueOf(employee.getHireDate()));
+
+                if (pstmt.executeUpdate() > 0) {
+                    added = true;
+                    employee.setId(id);
+                    System.out.println("Employee added successfully! ID: " + employee.getId());
+                    return true;
+                }
+            } finally {
+                if (!added) {
+                    updateEmailIndex("DELETE FROM employee_emails WHERE employee_id = ?", id);
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error adding employee: " + e.getMessage());
+            DBConfig.recoverMissingSchema(e);
         }
         return false;
     }
@@ -52,18 +113,21 @@ public class EmployeeDao {
      */
     public List<Employee> getAllEmployees() {
         List<Employee> employees = new ArrayList<>();
-        String sql = "SELECT * FROM employees ORDER BY id";
-
-        try (Connection conn = DBConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
+        String sql = "SELECT " + COLUMNS + " FROM employees ORDER BY id";
 
-            while (rs.next()) {
-                employees.add(extractEmployeeFromResultSet(rs));
+        try {
+            List<List<Employee>> results = ShardRouter.scatter(conn -> queryEmployees(conn, sql, null));
+            for (List<Employee> shardEmployees : results) {
+                employees.addAll(shardEmployees);
+            }
+            if (results.size() > 1) {
+                // Each shard is already sorted, so this merges the runs
+                employees.sort(Comparator.comparingInt(Employee::getId));
             }
 
         } catch (SQLException e) {
             System.err.println("Error retrieving employees: " + e.getMessage());
+            DBConfig.recoverMissingSchema(e);
         }
 
         return employees;
@@ -75,9 +139,9 @@ public class EmployeeDao {
      * @return Employee object or null if not found
      */
     public Employee getEmployeeById(int id) {
-        String sql = "SELECT * FROM employees WHERE id = ?";
+        String sql = "SELECT " + COLUMNS + " FROM employees WHERE id = ?";
 
-        try (Connection conn = DBConfig.getConnection();
+        try (Connection conn = ShardRouter.getReadConnection(ShardRouter.shardFor(id));
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -89,6 +153,7 @@ public class EmployeeDao {
 
         } catch (SQLException e) {
             System.err.println("Error retrieving employee: " + e.getMessage());
+            DBConfig.recoverMissingSchema(e);
         }
 
         return null;
@@ -101,20 +166,24 @@ public class EmployeeDao {
      */
     public List<Employee> getEmployeesByDepartment(String department) {
         List<Employee> employees = new ArrayList<>();
-        String sql = "SELECT * FROM employees WHERE department = ? ORDER BY last_name";
-
-        try (Connection conn = DBConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, department);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    employees.add(extractEmployeeFromResultSet(rs));
-                }
+        // A single database sorts by the column's collation. Shards sort by the binary
+        // value instead, because Java can reproduce that order exactly when merging.
+        String order = ShardRouter.shardCount() > 1 ? "CAST(last_name AS BINARY)" : "last_name";
+        String sql = "SELECT " + COLUMNS + " FROM employees WHERE department = ? ORDER BY " + order;
+
+        try {
+            List<List<Employee>> results = ShardRouter.scatter(conn -> queryEmployees(conn, sql, department));
+            for (List<Employee> shardEmployees : results) {
+                employees.addAll(shardEmployees);
+            }
+            if (results.size() > 1) {
+                // Each shard is already sorted the same way, so this merges the runs
+                employees.sort(Comparator.comparing(Employee::getLastName, EmployeeDao::compareCodePoints));
             }
 
         } catch (SQLException e) {
             System.err.println("Error searching employees: " + e.getMessage());
+            DBConfig.recoverMissingSchema(e);
         }
 
         return employees;
@@ -128,29 +197,57 @@ public class EmployeeDao {
     public boolean updateEmployee(Employee employee) {
         String sql = "UPDATE employees SET first_name = ?, last_name = ?, email = ?, " +
                      "department = ?, salary = ?, hire_date = ? WHERE id = ?";
-
-        try (Connection conn = DBConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            pstmt.setString(1, employee.getFirstName());
-            pstmt.setString(2, employee.getLastName());
-            pstmt.setString(3, employee.getEmail());
-            pstmt.setString(4, employee.getDepartment());
-            pstmt.setDouble(5, employee.getSalary());
-            pstmt.setDate(6, Date.valueOf(employee.getHireDate()));
-            pstmt.setInt(7, employee.getId());
-
-            int rowsAffected = pstmt.executeUpdate();
-
-            if (rowsAffected > 0) {
-                System.out.println("Employee updated successfully!");
-                return true;
-            } else {
-                System.out.println("Employee not found with ID: " + employee.getId());
+        String emailSql = "UPDATE employee_emails SET email = ? WHERE employee_id = ?";
+
+        try {
+            // Claim the new email globally first; undo the claim if the update fails
+            String previousEmail = null;
+            boolean claimInserted = false;
+            if (ShardRouter.isSharded()) {
+                previousEmail = indexedEmail(employee.getId());
+                // Connector/J counts matched rows, so an unchanged email still reports 1.
+                // No index row (a stale entry, or a row from before sharding) means a new claim.
+                if (previousEmail == null || updateEmailIndex(emailSql, employee.getEmail(), employee.getId()) == 0) {
+                    updateEmailIndex("INSERT INTO employee_emails (email, employee_id) VALUES (?, ?)",
+                                     employee.getEmail(), employee.getId());
+                    previousEmail = null;
+                    claimInserted = true;
+                }
+            }
+            boolean updated = false;
+
+            try (Connection conn = ShardRouter.getConnection(ShardRouter.shardFor(employee.getId()));
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+                pstmt.setString(1, employee.getFirstName());
+                pstmt.setString(2, employee.getLastName());
+                pstmt.setString(3, employee.getEmail());
+                pstmt.setString(4, employee.getDepartment());
+                pstmt.setBigDecimal(5, Cents.toDecimal(employee.getSalaryCents()));
+                pstmt.setDate(6, Date.valueOf(employee.getHireDate()));
+                pstmt.setInt(7, employee.getId());
+
+                int rowsAffected = pstmt.executeUpdate();
+
+                if (rowsAffected > 0) {
+                    updated = true;
+                    DBConfig.markWrite();
+                    System.out.println("Employee updated successfully!");
+                    return true;
+                } else {
+                    System.out.println("Employee not found with ID: " + employee.getId());
+                }
+            } finally {
+                if (!updated && claimInserted) {
+                    updateEmailIndex("DELETE FROM employee_emails WHERE employee_id = ?", employee.getId());
+                } else if (!updated && previousEmail != null) {
+                    updateEmailIndex(emailSql, previousEmail, employee.getId());
+                }
             }
 
         } catch (SQLException e) {
             System.err.println("Error updating employee: " + e.getMessage());
+            DBConfig.recoverMissingSchema(e);
         }
 
         return false;
@@ -164,13 +261,22 @@ public class EmployeeDao {
     public boolean deleteEmployee(int id) {
         String sql = "DELETE FROM employees WHERE id = ?";
 
-        try (Connection conn = DBConfig.getConnection();
+        try (Connection conn = ShardRouter.getConnection(ShardRouter.shardFor(id));
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
+                if (ShardRouter.isSharded()) {
+                    // The row is already gone, so this is not a failed delete
+                    try {
+                        updateEmailIndex("DELETE FROM employee_emails WHERE employee_id = ?", id);
+                    } catch (SQLException e) {
+                        System.err.println("Stale email index entry left for employee " + id + ": " + e.getMessage());
+                    }
+                }
+                DBConfig.markWrite();
                 System.out.println("Employee deleted successfully!");
                 return true;
             } else {
@@ -179,6 +285,7 @@ public class EmployeeDao {
 
         } catch (SQLException e) {
             System.err.println("Error deleting employee: " + e.getMessage());
+            DBConfig.recoverMissingSchema(e);
         }
 
         return false;
@@ -191,21 +298,187 @@ public class EmployeeDao {
     public int getEmployeeCount() {
         String sql = "SELECT COUNT(*) FROM employees";
 
-        try (Connection conn = DBConfig.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql);
-             ResultSet rs = pstmt.executeQuery()) {
-
-            if (rs.next()) {
-                return rs.getInt(1);
+        try {
+            int count = 0;
+            for (int shardCount : ShardRouter.scatter(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql);
+                     ResultSet rs = pstmt.executeQuery()) {
+                    return rs.next() ? rs.getInt(1) : 0;
+                }
+            })) {
+                count += shardCount;
             }
+            return count;
 
         } catch (SQLException e) {
             System.err.println("Error counting employees: " + e.getMessage());
+            DBConfig.recoverMissingSchema(e);
         }
 
         return 0;
     }
 
+    /**
+     * Get salary statistics computed by the database on every shard
+     * @return count, total, min and max salary in cents
+     */
+    public SalaryStatistics getSalaryStatistics() {
+        SalaryStatistics statistics = new SalaryStatistics();
+        // SUM over DECIMAL is exact in MySQL; scaled to cents it fits a long
+        String sql = "SELECT COUNT(*), CAST(SUM(salary) * 100 AS SIGNED), " +
+                     "CAST(MIN(salary) * 100 AS SIGNED), CAST(MAX(salary) * 100 AS SIGNED) FROM employees";
+
+        try {
+            for (SalaryStatistics shardStatistics : ShardRouter.scatter(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql);
+                     ResultSet rs = pstmt.executeQuery()) {
+                    rs.next();
+                    return new SalaryStatistics(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4));
+                }
+            })) {
+                statistics.merge(shardStatistics);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error calculating statistics: " + e.getMessage());
+            DBConfig.recoverMissingSchema(e);
+        }
+
+        return statistics;
+    }
+
+    /**
+     * Scan all employees without materializing them. The same EmployeeRow is
+     * refilled for every row and rows are streamed from the server instead of
+     * buffered, so memory use stays flat for large tables. Rows come in id
+     * order within each shard; the action must not keep the row itself.
+     * @param action called once per row
+     * @return number of rows scanned
+     */
+    public int forEachEmployee(Consumer<EmployeeRow> action) {
+        String sql = "SELECT " + COLUMNS + " FROM employees ORDER BY id";
+        EmployeeRow row = new EmployeeRow();
+        int count = 0;
+
+        try {
+            for (int shard = 0; shard < ShardRouter.shardCount(); shard++) {
+                try (Connection conn = ShardRouter.getReadConnection(shard);
+                     PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+                    // Connector/J streams rows one at a time with this fetch size
+                    pstmt.setFetchSize(Integer.MIN_VALUE);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            row.set(
+                                rs.getInt(1),
+                                rs.getString(2),
+                                rs.getString(3),
+                                rs.getString(4),
+                                rs.getString(5),
+                                rs.getLong(6),
+                                rs.getObject(7, LocalDate.class)
+                            );
+                            action.accept(row);
+                            count++;
+                        }
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error scanning employees: " + e.getMessage());
+            DBConfig.recoverMissingSchema(e);
+        }
+
+        return count;
+    }
+
+    /**
+     * Helper method to return the shared instance of a department name.
+     * Only used where rows are kept; a scan row is dropped right away, so
+     * interning there would only add a lookup.
+     */
+    private String internDepartment(String department) {
+        String shared = departments.get(department);
+        if (shared != null) {
+            return shared;
+        }
+        if (department == null || departments.size() >= MAX_INTERNED_DEPARTMENTS) {
+            return department;
+        }
+        shared = departments.putIfAbsent(department, department);
+        return shared != null ? shared : department;
+    }
+
+    /**
+     * Helper method to change the global email table on shard 0
+     */
+    private int updateEmailIndex(String sql, Object... params) throws SQLException {
+        try (Connection conn = ShardRouter.getConnection(0);
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setObject(i + 1, params[i]);
+            }
+            return pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Helper method to look up an employee's email in the global email table
+     * @return email, or null if the employee is not registered
+     */
+    private String indexedEmail(int id) throws SQLException {
+        String sql = "SELECT email FROM employee_emails WHERE employee_id = ?";
+
+        try (Connection conn = ShardRouter.getConnection(0);
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    /**
+     * Helper method to order strings by code point, which matches MySQL's
+     * ordering of their UTF-8 bytes
+     */
+    private static int compareCodePoints(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            if (ca != cb) {
+                return Integer.compare(ca, cb);
+            }
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    /**
+     * Helper method to run an employee query on one connection
+     * @param parameter optional string parameter bound to the first placeholder
+     */
+    private List<Employee> queryEmployees(Connection conn, String sql, String parameter) throws SQLException {
+        List<Employee> employees = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            if (parameter != null) {
+                pstmt.setString(1, parameter);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    employees.add(extractEmployeeFromResultSet(rs));
+                }
+            }
+        }
+        return employees;
+    }
+
     /**
      * Helper method to extract Employee object from ResultSet
      */
@@ -215,8 +488,8 @@ public class EmployeeDao {
             rs.getString("first_name"),
             rs.getString("last_name"),
             rs.getString("email"),
-            rs.getString("department"),
-            rs.getDouble("salary"),
+            internDepartment(rs.getString("department")),
+            rs.getLong("salary_cents"),
             rs.getDate("hire_date").toLocalDate()
         );
     }
@@ -0,0 +1,58 @@
+package com.employeeDB.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Helpers for money held as a long number of cents, matching the
+ * DECIMAL(10, 2) salary column exactly
+ */
+public final class Cents {
+    // Largest amount DECIMAL(10, 2) can hold: 99999999.99
+    public static final long MAX_CENTS = 9_999_999_999L;
+
+    private Cents() {
+    }
+
+    /**
+     * Parse an amount such as "75000" or "1234.5" without going through double
+     * @param amount amount in dollars with at most two decimals
+     * @return amount in cents
+     * @throws NumberFormatException if the amount is invalid, has more than two
+     *         decimals or does not fit DECIMAL(10, 2)
+     */
+    public static long parse(String amount) {
+        BigDecimal value = new BigDecimal(amount.trim());
+        // "10.000" is still a two-decimal amount
+        if (value.stripTrailingZeros().scale() > 2) {
+            throw new NumberFormatException("At most two decimal places allowed: " + amount);
+        }
+        if (value.abs().compareTo(toDecimal(MAX_CENTS)) > 0) {
+            throw new NumberFormatException("Amount must not exceed " + format(MAX_CENTS) + ": " + amount);
+        }
+        return value.movePointRight(2).longValueExact();
+    }
+
+    /**
+     * @return the amount as a decimal with scale 2, for binding to DECIMAL columns
+     */
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Format cents as dollars with two decimals, e.g. 123456 as "1234.56"
+     */
+    public static String format(long cents) {
+        StringBuilder sb = new StringBuilder();
+        if (cents < 0) {
+            sb.append('-');
+        }
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        sb.append(abs / 100).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction).toString();
+    }
+}
@@ -8,7 +8,7 @@ public class Employee {
     private String lastName;
     private String email;
     private String department;
-    private double salary;
+    private long salaryCents;
     private LocalDate hireDate;
 
     // Default constructor
@@ -17,24 +17,24 @@ public class Employee {
 
     // Constructor without ID (for adding new employees)
     public Employee(String firstName, String lastName, String email, 
-                   String department, double salary, LocalDate hireDate) {
+                   String department, long salaryCents, LocalDate hireDate) {
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
         this.department = department;
-        this.salary = salary;
+        this.salaryCents = salaryCents;
         this.hireDate = hireDate;
     }
 
     // Constructor with ID (for existing employees)
     public Employee(int id, String firstName, String lastName, String email, 
-                   String department, double salary, LocalDate hireDate) {
+                   String department, long salaryCents, LocalDate hireDate) {
         this.id = id;
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
         this.department = department;
-        this.salary = salary;
+        this.salaryCents = salaryCents;
         this.hireDate = hireDate;
     }
 
@@ -79,12 +79,13 @@ public class Employee {
         this.department = department;
     }
 
-    public double getSalary() {
-        return salary;
+    // Salary in cents, so DECIMAL(10, 2) values round-trip exactly
+    public long getSalaryCents() {
+        return salaryCents;
     }
 
-    public void setSalary(double salary) {
-        this.salary = salary;
+    public void setSalaryCents(long salaryCents) {
+        this.salaryCents = salaryCents;
     }
 
     public LocalDate getHireDate() {
@@ -97,8 +98,8 @@ public class Employee {
 
     @Override
     public String toString() {
-        return String.format("ID: %-3d | Name: %-15s | Email: %-20s | Dept: %-10s | Salary: $%-10.2f | Hired: %s",
-                id, firstName + " " + lastName, email, department, salary, hireDate);
+        return String.format("ID: %-3d | Name: %-15s | Email: %-20s | Dept: %-10s | Salary: $%-10s | Hired: %s",
+                id, firstName + " " + lastName, email, department, Cents.format(salaryCents), hireDate);
     }
 
 }
\ No newline at end of file
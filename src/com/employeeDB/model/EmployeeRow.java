@@ -0,0 +1,72 @@
+package com.employeeDB.model;
+
+import java.time.LocalDate;
+
+/**
+ * Mutable view of one employee row, refilled in place for every row of a scan.
+ * Only valid inside the scan callback; use toEmployee() to keep a row.
+ */
+public class EmployeeRow {
+    private int id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String department;
+    private long salaryCents;
+    private LocalDate hireDate;
+
+    /**
+     * Overwrite this view with the next row's values
+     */
+    public void set(int id, String firstName, String lastName, String email,
+                    String department, long salaryCents, LocalDate hireDate) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.department = department;
+        this.salaryCents = salaryCents;
+        this.hireDate = hireDate;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public long getSalaryCents() {
+        return salaryCents;
+    }
+
+    public LocalDate getHireDate() {
+        return hireDate;
+    }
+
+    /**
+     * Copy the current row into a standalone Employee
+     * @return new Employee with this row's values
+     */
+    public Employee toEmployee() {
+        return new Employee(id, firstName, lastName, email, department, salaryCents, hireDate);
+    }
+
+    @Override
+    public String toString() {
+        return toEmployee().toString();
+    }
+}
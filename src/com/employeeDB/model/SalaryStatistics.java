@@ -0,0 +1,63 @@
+package com.employeeDB.model;
+
+/**
+ * Salary aggregates kept in whole cents, so merging shards stays exact
+ */
+public class SalaryStatistics {
+    private long count;
+    private long totalCents;
+    private long minCents;
+    private long maxCents;
+
+    public SalaryStatistics() {
+    }
+
+    public SalaryStatistics(long count, long totalCents, long minCents, long maxCents) {
+        this.count = count;
+        this.totalCents = totalCents;
+        this.minCents = minCents;
+        this.maxCents = maxCents;
+    }
+
+    /**
+     * Combine with the statistics of another shard
+     * @param other statistics to merge in
+     */
+    public void merge(SalaryStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            minCents = other.minCents;
+            maxCents = other.maxCents;
+        } else {
+            minCents = Math.min(minCents, other.minCents);
+            maxCents = Math.max(maxCents, other.maxCents);
+        }
+        count += other.count;
+        totalCents = Math.addExact(totalCents, other.totalCents);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public long getMinCents() {
+        return minCents;
+    }
+
+    public long getMaxCents() {
+        return maxCents;
+    }
+
+    /**
+     * @return average salary in cents, rounded half up
+     */
+    public long getAverageCents() {
+        return count == 0 ? 0 : Math.floorDiv(totalCents + count / 2, count);
+    }
+}